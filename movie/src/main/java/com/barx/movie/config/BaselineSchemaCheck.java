@@ -0,0 +1,111 @@
+package com.barx.movie.config;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Guards {@code spring.flyway.baseline-on-migrate}. Flyway baselines any non-empty schema
+ * without a history table at V1, so before the baseline is written (and before the history
+ * table is created) the existing tables are checked against
+ * db/migration/common/V1__baseline_schema.sql and migration stops with an explanation if
+ * they do not match.
+ */
+@Component
+public class BaselineSchemaCheck implements Callback {
+
+    private static final Map<String, List<String>> V1_TABLES = new LinkedHashMap<>();
+
+    static {
+        V1_TABLES.put("movies", List.of("id", "title", "plot", "runtime", "rated", "num_mflix_comments", "poster",
+                "last_updated", "type", "wins", "nominations", "text", "rating", "votes", "imdb_id",
+                "viewer_rating", "viewer_reviews", "critic_rating", "reviews_count", "consensus", "audience_score",
+                "dvd_release_date", "production", "tomatoes_last_updated", "fresh", "rotten", "website",
+                "box_office"));
+        V1_TABLES.put("movie_genres", List.of("movie_id", "genre"));
+        V1_TABLES.put("movie_cast", List.of("movie_id", "actor"));
+        V1_TABLES.put("movie_languages", List.of("movie_id", "language"));
+        V1_TABLES.put("movie_directors", List.of("movie_id", "director"));
+        V1_TABLES.put("movie_writers", List.of("movie_id", "writer"));
+        V1_TABLES.put("movie_countries", List.of("movie_id", "country"));
+    }
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_BASELINE;
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        try {
+            check(context.getConnection(), context.getConfiguration().getTable());
+        } catch (SQLException e) {
+            throw new FlywayException("Could not inspect the existing schema before migrating", e);
+        }
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "baseline-schema-check";
+    }
+
+    private void check(Connection connection, String historyTable) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, String> tables = new HashMap<>();
+        try (ResultSet rs = metaData.getTables(connection.getCatalog(), connection.getSchema(), "%",
+                new String[]{"TABLE"})) {
+            while (rs.next()) {
+                String name = rs.getString("TABLE_NAME");
+                tables.put(name.toLowerCase(Locale.ROOT), name);
+            }
+        }
+        if (tables.isEmpty() || tables.containsKey(historyTable.toLowerCase(Locale.ROOT))) {
+            // Empty schemas are migrated from V1, managed schemas are left to Flyway
+            return;
+        }
+
+        for (Map.Entry<String, List<String>> table : V1_TABLES.entrySet()) {
+            String actualName = tables.get(table.getKey());
+            if (actualName == null) {
+                throw mismatch("table " + table.getKey() + " is missing");
+            }
+            Set<String> columns = new HashSet<>();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), actualName, "%")) {
+                while (rs.next()) {
+                    columns.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            for (String column : table.getValue()) {
+                if (!columns.contains(column)) {
+                    throw mismatch("table " + table.getKey() + " has no column " + column);
+                }
+            }
+        }
+    }
+
+    private FlywayException mismatch(String problem) {
+        return new FlywayException("Cannot baseline the existing schema at V1: " + problem + ". "
+                + "The schema was not created by this application (for example it was populated by "
+                + "script/populate_db.py). Point the application at an empty database, or bring the schema in "
+                + "line with db/migration/common/V1__baseline_schema.sql before starting it.");
+    }
+}
@@ -0,0 +1,37 @@
+package com.barx.movie.config;
+
+import com.barx.movie.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs each catalog lookup once after startup, so the first real requests do not pay for
+ * Hibernate query compilation. The probes use keys that match almost nothing, so they warm
+ * the query-plan cache and the JDBC statement path, not database index pages.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogWarmUp {
+
+    private final MovieRepository movieRepository;
+    private final StartupProperties properties;
+    private final DeferredInitializer deferredInitializer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isWarmUp()) {
+            return;
+        }
+        deferredInitializer.run("catalog warm-up", () -> {
+            movieRepository.count();
+            movieRepository.findByGenre("");
+            movieRepository.findByDirector("");
+            movieRepository.findByActor("");
+            movieRepository.findByCountry("");
+            movieRepository.findByMaxRuntime(0);
+            movieRepository.findByMinImdbRating(10.0);
+        });
+    }
+}
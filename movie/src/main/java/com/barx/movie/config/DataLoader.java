@@ -18,12 +18,13 @@ import java.util.logging.Logger;
 public class DataLoader {
 
     private final MovieRepository movieRepository;
+    private final DeferredInitializer deferredInitializer;
     private Logger logger = Logger.getLogger(DataLoader.class.getName());
 
     @Bean
     @Profile("dev")  // Only run in development profile
     public CommandLineRunner loadSampleData() {
-        return args -> {
+        return args -> deferredInitializer.run("sample data loading", () -> {
             if (movieRepository.count() == 0) {
                 logger.info("Loading sample movie data...");
                 
@@ -199,6 +200,6 @@ public class DataLoader {
                 movieRepository.saveAll(Arrays.asList(movie1, movie2, movie3, movie4));
                 logger.info("Sample data loaded successfully!");
             }
-        };
+        });
     }
 }
\ No newline at end of file
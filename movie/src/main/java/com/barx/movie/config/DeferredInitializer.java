@@ -0,0 +1,49 @@
+package com.barx.movie.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs non-essential startup work. In fast-startup mode the work is queued on a single
+ * background thread, in submission order, so it does not delay the application becoming ready.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeferredInitializer {
+
+    private final Logger logger = Logger.getLogger(DeferredInitializer.class.getName());
+
+    private final StartupProperties properties;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deferred-init");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public void run(String name, Runnable task) {
+        if (!properties.isDeferInitialization()) {
+            task.run();
+            return;
+        }
+        logger.info("Deferring " + name + " until after startup");
+        executor.execute(() -> {
+            try {
+                task.run();
+                logger.info("Deferred " + name + " finished");
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Deferred " + name + " failed", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
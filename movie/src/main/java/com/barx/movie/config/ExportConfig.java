@@ -0,0 +1,13 @@
+package com.barx.movie.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The export thread pool is owned by MovieExportService rather than registered as a bean,
+ * so it never replaces the auto-configured applicationTaskExecutor.
+ */
+@Configuration
+@EnableConfigurationProperties(ExportProperties.class)
+public class ExportConfig {
+}
@@ -0,0 +1,60 @@
+package com.barx.movie.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning knobs for the bulk catalog export
+ */
+@Data
+@ConfigurationProperties(prefix = "movie.export")
+public class ExportProperties {
+    /**
+     * Directory the partition files are written to, one sub-directory per job
+     */
+    private String directory = "export";
+
+    /**
+     * Number of partitions scanned at the same time across all exports, also the size of the
+     * export thread pool. Each scan holds one pooled connection, so this must stay below
+     * spring.datasource.hikari.maximum-pool-size to leave connections for the API.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Default number of id-range partitions an export is split into
+     */
+    private int partitions = 4;
+
+    /**
+     * Largest number of partitions a single export may request
+     */
+    private int maxPartitions = 64;
+
+    /**
+     * JDBC fetch size used by the streaming cursor of each partition
+     */
+    private int fetchSize = 500;
+
+    /**
+     * Number of movies whose element collections are loaded and written together
+     */
+    private int batchSize = 500;
+
+    /**
+     * Size in bytes of the compression and writer buffers of each partition file
+     */
+    private int bufferSize = 64 * 1024;
+
+    /**
+     * How long finished jobs stay queryable; their files are left on disk
+     */
+    private Duration jobRetention = Duration.ofHours(24);
+
+    /**
+     * Largest number of finished jobs kept in memory, oldest are dropped first
+     */
+    private int maxRetainedJobs = 100;
+}
@@ -0,0 +1,26 @@
+package com.barx.movie.config;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.logging.Logger;
+
+@Configuration
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupConfig {
+
+    private final Logger logger = Logger.getLogger(StartupConfig.class.getName());
+
+    /**
+     * Marks readiness in the log. script/startup_benchmark.py times startup against this line.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void logReady(ApplicationReadyEvent event) {
+        logger.info("Application ready in " + event.getTimeTaken().toMillis() + " ms");
+    }
+}
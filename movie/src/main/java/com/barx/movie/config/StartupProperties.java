@@ -0,0 +1,21 @@
+package com.barx.movie.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Switches used by the fast-startup run mode
+ */
+@Data
+@ConfigurationProperties(prefix = "movie.startup")
+public class StartupProperties {
+    /**
+     * Run non-essential initialisation on a background thread once the application is ready
+     */
+    private boolean deferInitialization = false;
+
+    /**
+     * Run each catalog lookup once after startup to warm Hibernate's query-plan cache
+     */
+    private boolean warmUp = false;
+}
@@ -0,0 +1,49 @@
+package com.barx.movie.controller;
+
+import com.barx.movie.config.ExportProperties;
+import com.barx.movie.dto.ExportFormat;
+import com.barx.movie.dto.ExportJobDTO;
+import com.barx.movie.service.MovieExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/movies/export")
+@RequiredArgsConstructor
+public class MovieExportController {
+    
+    private final MovieExportService movieExportService;
+    private final ExportProperties exportProperties;
+    
+    @PostMapping
+    public ResponseEntity<ExportJobDTO> startExport(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Integer partitions) {
+        
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromString(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (partitions != null && (partitions < 1 || partitions > exportProperties.getMaxPartitions())) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            return ResponseEntity.accepted().body(movieExportService.startExport(exportFormat, partitions));
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobDTO> getExportJob(@PathVariable String jobId) {
+        return movieExportService.getExportJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
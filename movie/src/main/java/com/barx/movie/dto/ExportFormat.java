@@ -0,0 +1,25 @@
+package com.barx.movie.dto;
+
+import java.util.Locale;
+
+/**
+ * File formats supported by the bulk catalog export
+ */
+public enum ExportFormat {
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromString(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
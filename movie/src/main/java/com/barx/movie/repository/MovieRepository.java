@@ -11,27 +11,49 @@ import java.util.List;
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
     
+    /*
+     * Facet lookups match the lowercase *_key columns maintained by the V2 migration, so only
+     * the parameter is lowered and the (key, movie_id) indexes can be used. All indexed lookups
+     * are kept as SQL constants so tests can check their plans.
+     */
+    String FIND_BY_GENRE_SQL = "SELECT m.* FROM movies m WHERE m.id IN "
+            + "(SELECT g.movie_id FROM movie_genres g WHERE g.genre_key = LOWER(:genre))";
+    
+    String FIND_BY_DIRECTOR_SQL = "SELECT m.* FROM movies m WHERE m.id IN "
+            + "(SELECT d.movie_id FROM movie_directors d WHERE d.director_key = LOWER(:director))";
+    
+    String FIND_BY_ACTOR_SQL = "SELECT m.* FROM movies m WHERE m.id IN "
+            + "(SELECT c.movie_id FROM movie_cast c WHERE c.actor_key = LOWER(:actor))";
+    
+    String FIND_BY_COUNTRY_SQL = "SELECT m.* FROM movies m WHERE m.id IN "
+            + "(SELECT c.movie_id FROM movie_countries c WHERE c.country_key = LOWER(:country))";
+    
+    String FIND_BY_MAX_RUNTIME_SQL = "SELECT m.* FROM movies m WHERE m.runtime <= :maxRuntime";
+    
+    String FIND_BY_MIN_IMDB_RATING_SQL = "SELECT m.* FROM movies m WHERE m.rating >= :minRating";
+    
     List<Movie> findByTitleContainingIgnoreCase(String title);
     
-    @Query("SELECT m FROM Movie m JOIN m.genres g WHERE LOWER(g) = LOWER(:genre)")
+    @Query(value = FIND_BY_GENRE_SQL, nativeQuery = true)
     List<Movie> findByGenre(@Param("genre") String genre);
     
-    @Query("SELECT m FROM Movie m JOIN m.directors d WHERE LOWER(d) = LOWER(:director)")
+    @Query(value = FIND_BY_DIRECTOR_SQL, nativeQuery = true)
     List<Movie> findByDirector(@Param("director") String director);
     
-    @Query("SELECT m FROM Movie m JOIN m.cast c WHERE LOWER(c) = LOWER(:actor)")
+    @Query(value = FIND_BY_ACTOR_SQL, nativeQuery = true)
     List<Movie> findByActor(@Param("actor") String actor);
     
     @Query("SELECT m FROM Movie m WHERE LOWER(m.plot) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Movie> findByPlotKeyword(@Param("keyword") String keyword);
     
-    List<Movie> findByCountriesContaining(String country);
+    @Query(value = FIND_BY_COUNTRY_SQL, nativeQuery = true)
+    List<Movie> findByCountry(@Param("country") String country);
     
     List<Movie> findByRated(String rated);
     
-    @Query("SELECT m FROM Movie m WHERE m.runtime <= :maxRuntime")
+    @Query(value = FIND_BY_MAX_RUNTIME_SQL, nativeQuery = true)
     List<Movie> findByMaxRuntime(@Param("maxRuntime") Integer maxRuntime);
     
-    @Query("SELECT m FROM Movie m WHERE m.imdb.rating >= :minRating")
+    @Query(value = FIND_BY_MIN_IMDB_RATING_SQL, nativeQuery = true)
     List<Movie> findByMinImdbRating(@Param("minRating") Double minRating);
 }
\ No newline at end of file
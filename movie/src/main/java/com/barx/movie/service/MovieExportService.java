@@ -0,0 +1,462 @@
+package com.barx.movie.service;
+
+import com.barx.movie.config.ExportProperties;
+import com.barx.movie.dto.ExportFormat;
+import com.barx.movie.dto.ExportJobDTO;
+import com.barx.movie.dto.MovieDTO;
+import com.barx.movie.model.Awards;
+import com.barx.movie.model.ImdbInfo;
+import com.barx.movie.model.TomatoesInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk export of the whole catalog, bypassing the persistence context.
+ * <p>
+ * The {@code movies} id range is split into partitions that are drained by at most
+ * {@code movie.export.concurrency} workers on the export pool, each partition with its own
+ * read-only streaming cursor. Element collections are loaded per batch with one range query
+ * per collection table, and every partition is written to its own gzip-compressed file.
+ * <p>
+ * In CSV files list columns such as {@code genres} or {@code cast} hold their items separated
+ * by {@code |}. A literal {@code |} or {@code \} inside an item is escaped with a backslash, so
+ * loaders split on unescaped {@code |} and then replace {@code \|} and {@code \\} with the
+ * plain character.
+ */
+@Service
+public class MovieExportService {
+
+    private static final String ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM movies";
+
+    private static final String MOVIES_SQL = "SELECT id, title, plot, runtime, rated, num_mflix_comments, poster, "
+            + "last_updated, type, wins, nominations, text, rating, votes, imdb_id, viewer_rating, viewer_reviews, "
+            + "critic_rating, reviews_count, consensus, audience_score, dvd_release_date, production, "
+            + "tomatoes_last_updated, fresh, rotten, website, box_office "
+            + "FROM movies WHERE id BETWEEN ? AND ? ORDER BY id";
+
+    private static final List<ElementCollection> ELEMENT_COLLECTIONS = List.of(
+            new ElementCollection("movie_genres", "genre", MovieDTO::setGenres),
+            new ElementCollection("movie_cast", "actor", MovieDTO::setCast),
+            new ElementCollection("movie_languages", "language", MovieDTO::setLanguages),
+            new ElementCollection("movie_directors", "director", MovieDTO::setDirectors),
+            new ElementCollection("movie_writers", "writer", MovieDTO::setWriters),
+            new ElementCollection("movie_countries", "country", MovieDTO::setCountries));
+
+    private static final List<String> CSV_HEADER = List.of("id", "title", "plot", "genres", "runtime", "rated",
+            "cast", "numMflixComments", "poster", "lastUpdated", "languages", "directors", "writers", "awardsWins",
+            "awardsNominations", "awardsText", "imdbRating", "imdbVotes", "imdbId", "countries", "type",
+            "tomatoesViewerRating", "tomatoesViewerReviews", "tomatoesCriticRating", "tomatoesReviewsCount",
+            "tomatoesConsensus", "tomatoesAudienceScore", "tomatoesDvdReleaseDate", "tomatoesProduction",
+            "tomatoesLastUpdated", "tomatoesFresh", "tomatoesRotten", "tomatoesWebsite", "tomatoesBoxOffice");
+
+    private final Logger logger = Logger.getLogger(MovieExportService.class.getName());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+    private final ThreadPoolTaskExecutor exportExecutor;
+    private final Map<String, ExportJobDTO> jobs = new ConcurrentHashMap<>();
+
+    public MovieExportService(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              ExportProperties properties,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.exportExecutor = createExportExecutor(properties, connectionPoolSize);
+    }
+
+    /**
+     * Dedicated, bounded pool so export partitions never compete with request threads. It is
+     * kept private to this service: an Executor bean would replace the auto-configured
+     * applicationTaskExecutor. An export submits at most {@code concurrency} workers, so the
+     * queue holds the workers of up to four exports waiting behind the running one.
+     */
+    private static ThreadPoolTaskExecutor createExportExecutor(ExportProperties properties, int connectionPoolSize) {
+        Assert.isTrue(properties.getConcurrency() >= 1, "movie.export.concurrency must be at least 1");
+        Assert.isTrue(properties.getConcurrency() < connectionPoolSize,
+                "movie.export.concurrency must be below spring.datasource.hikari.maximum-pool-size ("
+                        + connectionPoolSize + ") so exports leave connections for the API");
+        Assert.isTrue(properties.getMaxPartitions() >= 1, "movie.export.max-partitions must be at least 1");
+        Assert.isTrue(properties.getPartitions() >= 1 && properties.getPartitions() <= properties.getMaxPartitions(),
+                "movie.export.partitions must be between 1 and movie.export.max-partitions");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getConcurrency());
+        executor.setMaxPoolSize(properties.getConcurrency());
+        executor.setQueueCapacity(properties.getConcurrency() * 4);
+        executor.setThreadNamePrefix("movie-export-");
+        executor.setThreadPriority(Thread.NORM_PRIORITY - 1);
+        executor.initialize();
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        exportExecutor.shutdown();
+    }
+
+    /**
+     * Starts an export in the background and returns the job as it was submitted.
+     *
+     * @throws org.springframework.core.task.TaskRejectedException if the export pool is saturated
+     */
+    public ExportJobDTO startExport(ExportFormat format, Integer partitions) {
+        evictFinishedJobs();
+        int partitionCount = partitions != null ? partitions : properties.getPartitions();
+        ExportJobDTO job = ExportJobDTO.builder()
+                .id(UUID.randomUUID().toString())
+                .format(format)
+                .status(ExportJobDTO.Status.RUNNING)
+                .partitions(partitionCount)
+                .files(List.of())
+                .movieCount(0L)
+                .startedAt(LocalDateTime.now())
+                .build();
+        jobs.put(job.getId(), job);
+
+        Path directory = Paths.get(properties.getDirectory(), job.getId());
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<CompletableFuture<List<PartitionResult>>> workers = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            Queue<Partition> pending = new ConcurrentLinkedQueue<>(splitIdRange(partitionCount));
+            int workerCount = Math.min(properties.getConcurrency(), pending.size());
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(CompletableFuture.supplyAsync(
+                        () -> exportPartitions(directory, pending, format, cancelled), exportExecutor));
+            }
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                    .whenComplete((ignored, failure) -> finish(job, workers, failure));
+        } catch (IOException | RuntimeException e) {
+            // Stop the workers that were already accepted and drop whatever they wrote
+            cancelled.set(true);
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                    .whenComplete((ignored, failure) -> deleteDirectory(directory));
+            fail(job, e);
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+        }
+        return jobs.get(job.getId());
+    }
+
+    public Optional<ExportJobDTO> getExportJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Drops finished jobs past the retention period, then the oldest finished jobs beyond
+     * the retained maximum. Running jobs are never evicted.
+     */
+    private void evictFinishedJobs() {
+        LocalDateTime expiry = LocalDateTime.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(expiry));
+        List<ExportJobDTO> finished = jobs.values().stream()
+                .filter(job -> job.getFinishedAt() != null)
+                .sorted(Comparator.comparing(ExportJobDTO::getFinishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - properties.getMaxRetainedJobs(); i++) {
+            jobs.remove(finished.get(i).getId());
+        }
+    }
+
+    private List<Partition> splitIdRange(int partitionCount) {
+        long[] bounds = jdbcTemplate.queryForObject(ID_RANGE_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.wasNull() ? -1 : rs.getLong(2)});
+        List<Partition> ranges = new ArrayList<>();
+        if (bounds == null || bounds[1] < 0) {
+            return ranges;
+        }
+        long span = bounds[1] - bounds[0] + 1;
+        long step = Math.max(1, (span + partitionCount - 1) / partitionCount);
+        for (long from = bounds[0]; from <= bounds[1]; from += step) {
+            ranges.add(new Partition(ranges.size(), from, Math.min(bounds[1], from + step - 1)));
+        }
+        return ranges;
+    }
+
+    /**
+     * Worker loop: exports partitions from the shared queue until it is empty or the job is
+     * cancelled. A failing worker cancels the job so its siblings stop early.
+     */
+    private List<PartitionResult> exportPartitions(Path directory, Queue<Partition> pending, ExportFormat format,
+                                                   AtomicBoolean cancelled) {
+        List<PartitionResult> results = new ArrayList<>();
+        try {
+            Partition partition;
+            while (!cancelled.get() && (partition = pending.poll()) != null) {
+                results.add(exportPartition(directory, partition, format, cancelled));
+            }
+        } catch (CancellationException e) {
+            logger.fine(() -> "Export worker stopped after cancellation");
+        } catch (RuntimeException e) {
+            cancelled.set(true);
+            throw e;
+        }
+        return results;
+    }
+
+    private PartitionResult exportPartition(Path directory, Partition partition, ExportFormat format,
+                                            AtomicBoolean cancelled) {
+        long fromId = partition.fromId();
+        long toId = partition.toId();
+        Path file = directory.resolve(String.format("movies-%05d.%s.gz", partition.index(), format.getExtension()));
+        int bufferSize = properties.getBufferSize();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(
+                     new GZIPOutputStream(Channels.newOutputStream(channel), bufferSize),
+                     StandardCharsets.UTF_8), bufferSize)) {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, CSV_HEADER);
+            }
+            Long movies = readOnlyTransaction.execute(status -> streamPartition(fromId, toId, batch -> {
+                if (cancelled.get()) {
+                    throw new CancellationException("Export cancelled");
+                }
+                try {
+                    for (MovieDTO movie : batch) {
+                        if (format == ExportFormat.CSV) {
+                            writeCsvRow(writer, toCsvRow(movie));
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(movie));
+                            writer.write('\n');
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            logger.fine(() -> "Exported " + movies + " movies with ids " + fromId + ".." + toId + " to " + file);
+            return new PartitionResult(file, movies != null ? movies : 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long streamPartition(long fromId, long toId, Consumer<List<MovieDTO>> sink) {
+        List<MovieDTO> batch = new ArrayList<>(properties.getBatchSize());
+        long[] count = {0};
+        jdbcTemplate.query(MOVIES_SQL, rs -> {
+            batch.add(mapMovie(rs));
+            count[0]++;
+            if (batch.size() >= properties.getBatchSize()) {
+                flush(batch, sink);
+            }
+        }, fromId, toId);
+        if (!batch.isEmpty()) {
+            flush(batch, sink);
+        }
+        return count[0];
+    }
+
+    private void flush(List<MovieDTO> batch, Consumer<List<MovieDTO>> sink) {
+        loadElementCollections(batch);
+        sink.accept(batch);
+        batch.clear();
+    }
+
+    /**
+     * Loads every element collection of the batch with a single range query per table,
+     * instead of one query per movie and collection.
+     */
+    private void loadElementCollections(List<MovieDTO> batch) {
+        long fromId = batch.get(0).getId();
+        long toId = batch.get(batch.size() - 1).getId();
+        for (ElementCollection collection : ELEMENT_COLLECTIONS) {
+            Map<Long, List<String>> values = new HashMap<>();
+            jdbcTemplate.query("SELECT movie_id, " + collection.column() + " FROM " + collection.table()
+                            + " WHERE movie_id BETWEEN ? AND ?",
+                    rs -> {
+                        values.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+                    }, fromId, toId);
+            for (MovieDTO movie : batch) {
+                collection.setter().accept(movie, values.getOrDefault(movie.getId(), List.of()));
+            }
+        }
+    }
+
+    private MovieDTO mapMovie(ResultSet rs) throws SQLException {
+        return MovieDTO.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .plot(rs.getString("plot"))
+                .runtime(rs.getObject("runtime", Integer.class))
+                .rated(rs.getString("rated"))
+                .numMflixComments(rs.getObject("num_mflix_comments", Integer.class))
+                .poster(rs.getString("poster"))
+                .lastUpdated(rs.getObject("last_updated", LocalDateTime.class))
+                .type(rs.getString("type"))
+                .awards(Awards.builder()
+                        .wins(rs.getObject("wins", Integer.class))
+                        .nominations(rs.getObject("nominations", Integer.class))
+                        .text(rs.getString("text"))
+                        .build())
+                .imdb(ImdbInfo.builder()
+                        .rating(rs.getObject("rating", Double.class))
+                        .votes(rs.getObject("votes", Integer.class))
+                        .id(rs.getString("imdb_id"))
+                        .build())
+                .tomatoes(TomatoesInfo.builder()
+                        .viewerRating(rs.getObject("viewer_rating", Double.class))
+                        .viewerReviews(rs.getObject("viewer_reviews", Integer.class))
+                        .criticRating(rs.getObject("critic_rating", Double.class))
+                        .reviewsCount(rs.getObject("reviews_count", Integer.class))
+                        .consensus(rs.getString("consensus"))
+                        .audienceScore(rs.getObject("audience_score", Integer.class))
+                        .dvdReleaseDate(rs.getObject("dvd_release_date", LocalDateTime.class))
+                        .production(rs.getString("production"))
+                        .lastUpdated(rs.getObject("tomatoes_last_updated", LocalDateTime.class))
+                        .fresh(rs.getObject("fresh", Integer.class))
+                        .rotten(rs.getObject("rotten", Integer.class))
+                        .website(rs.getString("website"))
+                        .boxOffice(rs.getString("box_office"))
+                        .build())
+                .build();
+    }
+
+    private List<Object> toCsvRow(MovieDTO movie) {
+        Awards awards = movie.getAwards();
+        ImdbInfo imdb = movie.getImdb();
+        TomatoesInfo tomatoes = movie.getTomatoes();
+        return Arrays.asList(movie.getId(), movie.getTitle(), movie.getPlot(), joinList(movie.getGenres()),
+                movie.getRuntime(), movie.getRated(), joinList(movie.getCast()), movie.getNumMflixComments(),
+                movie.getPoster(), movie.getLastUpdated(), joinList(movie.getLanguages()),
+                joinList(movie.getDirectors()), joinList(movie.getWriters()), awards.getWins(),
+                awards.getNominations(), awards.getText(), imdb.getRating(), imdb.getVotes(), imdb.getId(),
+                joinList(movie.getCountries()), movie.getType(), tomatoes.getViewerRating(),
+                tomatoes.getViewerReviews(), tomatoes.getCriticRating(), tomatoes.getReviewsCount(),
+                tomatoes.getConsensus(), tomatoes.getAudienceScore(), tomatoes.getDvdReleaseDate(),
+                tomatoes.getProduction(), tomatoes.getLastUpdated(), tomatoes.getFresh(), tomatoes.getRotten(),
+                tomatoes.getWebsite(), tomatoes.getBoxOffice());
+    }
+
+    private String joinList(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream()
+                .map(value -> value.replace("\\", "\\\\").replace("|", "\\|"))
+                .collect(Collectors.joining("|"));
+    }
+
+    private void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void finish(ExportJobDTO job, List<CompletableFuture<List<PartitionResult>>> workers, Throwable failure) {
+        if (failure != null) {
+            fail(job, failure);
+            return;
+        }
+        List<PartitionResult> results = workers.stream()
+                .flatMap(worker -> worker.join().stream())
+                .sorted(Comparator.comparing(PartitionResult::file))
+                .toList();
+        jobs.put(job.getId(), job.toBuilder()
+                .status(ExportJobDTO.Status.COMPLETED)
+                .files(results.stream().map(result -> result.file().toString()).collect(Collectors.toList()))
+                .movieCount(results.stream().mapToLong(PartitionResult::movies).sum())
+                .finishedAt(LocalDateTime.now())
+                .build());
+        logger.info("Export " + job.getId() + " completed");
+    }
+
+    private void fail(ExportJobDTO job, Throwable failure) {
+        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+        logger.log(Level.WARNING, "Export " + job.getId() + " failed", cause);
+        jobs.put(job.getId(), job.toBuilder()
+                .status(ExportJobDTO.Status.FAILED)
+                .error(cause.getMessage())
+                .finishedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void deleteDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not remove export directory " + directory, e);
+        }
+    }
+
+    private record Partition(int index, long fromId, long toId) {
+    }
+
+    private record ElementCollection(String table, String column, BiConsumer<MovieDTO, List<String>> setter) {
+    }
+
+    private record PartitionResult(Path file, long movies) {
+    }
+}
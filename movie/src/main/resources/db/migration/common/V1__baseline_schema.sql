@@ -0,0 +1,69 @@
+-- Baseline schema matching the JPA mappings in com.barx.movie.model.
+-- Databases previously created by ddl-auto are baselined at this version.
+
+CREATE TABLE movies (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title                 VARCHAR(255),
+    plot                  VARCHAR(2000),
+    runtime               INTEGER,
+    rated                 VARCHAR(255),
+    num_mflix_comments    INTEGER,
+    poster                VARCHAR(255),
+    last_updated          TIMESTAMP(6),
+    type                  VARCHAR(255),
+    wins                  INTEGER,
+    nominations           INTEGER,
+    text                  VARCHAR(255),
+    rating                DOUBLE PRECISION,
+    votes                 INTEGER,
+    imdb_id               VARCHAR(255),
+    viewer_rating         DOUBLE PRECISION,
+    viewer_reviews        INTEGER,
+    critic_rating         DOUBLE PRECISION,
+    reviews_count         INTEGER,
+    consensus             VARCHAR(255),
+    audience_score        INTEGER,
+    dvd_release_date      TIMESTAMP(6),
+    production            VARCHAR(255),
+    tomatoes_last_updated TIMESTAMP(6),
+    fresh                 INTEGER,
+    rotten                INTEGER,
+    website               VARCHAR(255),
+    box_office            VARCHAR(255)
+);
+
+CREATE TABLE movie_genres (
+    movie_id BIGINT NOT NULL,
+    genre    VARCHAR(255),
+    CONSTRAINT fk_movie_genres_movie FOREIGN KEY (movie_id) REFERENCES movies (id)
+);
+
+CREATE TABLE movie_cast (
+    movie_id BIGINT NOT NULL,
+    actor    VARCHAR(255),
+    CONSTRAINT fk_movie_cast_movie FOREIGN KEY (movie_id) REFERENCES movies (id)
+);
+
+CREATE TABLE movie_languages (
+    movie_id BIGINT NOT NULL,
+    language VARCHAR(255),
+    CONSTRAINT fk_movie_languages_movie FOREIGN KEY (movie_id) REFERENCES movies (id)
+);
+
+CREATE TABLE movie_directors (
+    movie_id BIGINT NOT NULL,
+    director VARCHAR(255),
+    CONSTRAINT fk_movie_directors_movie FOREIGN KEY (movie_id) REFERENCES movies (id)
+);
+
+CREATE TABLE movie_writers (
+    movie_id BIGINT NOT NULL,
+    writer   VARCHAR(255),
+    CONSTRAINT fk_movie_writers_movie FOREIGN KEY (movie_id) REFERENCES movies (id)
+);
+
+CREATE TABLE movie_countries (
+    movie_id BIGINT NOT NULL,
+    country  VARCHAR(255),
+    CONSTRAINT fk_movie_countries_movie FOREIGN KEY (movie_id) REFERENCES movies (id)
+);
@@ -0,0 +1,15 @@
+-- Lowercase lookup keys maintained by the database, so case-insensitive facet
+-- queries compare an indexed column against LOWER(:value) instead of LOWER(column).
+
+ALTER TABLE movie_genres ADD COLUMN genre_key VARCHAR(255) GENERATED ALWAYS AS (LOWER(genre));
+ALTER TABLE movie_cast ADD COLUMN actor_key VARCHAR(255) GENERATED ALWAYS AS (LOWER(actor));
+ALTER TABLE movie_directors ADD COLUMN director_key VARCHAR(255) GENERATED ALWAYS AS (LOWER(director));
+ALTER TABLE movie_countries ADD COLUMN country_key VARCHAR(255) GENERATED ALWAYS AS (LOWER(country));
+
+CREATE INDEX idx_movie_genres_genre_key ON movie_genres (genre_key, movie_id);
+CREATE INDEX idx_movie_cast_actor_key ON movie_cast (actor_key, movie_id);
+CREATE INDEX idx_movie_directors_director_key ON movie_directors (director_key, movie_id);
+CREATE INDEX idx_movie_countries_country_key ON movie_countries (country_key, movie_id);
+
+CREATE INDEX idx_movies_rating ON movies (rating);
+CREATE INDEX idx_movies_runtime ON movies (runtime);
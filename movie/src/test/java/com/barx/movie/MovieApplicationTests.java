@@ -1,13 +1,25 @@
 package com.barx.movie;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class MovieApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void keepsAutoConfiguredApplicationTaskExecutor() {
+		assertThat(context.containsBean("applicationTaskExecutor")).isTrue();
+	}
+
 }
@@ -0,0 +1,69 @@
+package com.barx.movie.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BaselineSchemaCheckTests {
+
+	@Test
+	void baselinesSchemaMatchingV1() throws SQLException {
+		String url = "jdbc:h2:mem:baseline-match;DB_CLOSE_DELAY=-1";
+		execute(url, "RUNSCRIPT FROM 'classpath:db/migration/common/V1__baseline_schema.sql'");
+
+		flyway(url).migrate();
+
+		assertThat(flyway(url).info().current().getVersion().getVersion()).isEqualTo("2");
+	}
+
+	@Test
+	void refusesToBaselineForeignSchema() throws SQLException {
+		String url = "jdbc:h2:mem:baseline-foreign;DB_CLOSE_DELAY=-1";
+		execute(url, "CREATE TABLE movies (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+		execute(url, "CREATE TABLE movie_genres (movie_id BIGINT, genre_id BIGINT)");
+
+		assertThatThrownBy(() -> flyway(url).migrate())
+				.isInstanceOf(FlywayException.class)
+				.hasStackTraceContaining("Cannot baseline the existing schema at V1");
+		assertThat(tableExists(url, "flyway_schema_history")).isFalse();
+	}
+
+	private Flyway flyway(String url) {
+		return Flyway.configure()
+				.dataSource(url, "sa", "")
+				.locations("classpath:db/migration/common", "classpath:db/migration/h2")
+				.baselineOnMigrate(true)
+				.baselineVersion("1")
+				.callbacks(new BaselineSchemaCheck())
+				.load();
+	}
+
+	private boolean tableExists(String url, String table) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 ResultSet rs = connection.getMetaData().getTables(null, null, "%", new String[]{"TABLE"})) {
+			while (rs.next()) {
+				if (rs.getString("TABLE_NAME").equalsIgnoreCase(table)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private void execute(String url, String sql) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.barx.movie.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeferredInitializerTests {
+
+	@Test
+	void runsInlineWhenDeferralIsDisabled() {
+		DeferredInitializer initializer = new DeferredInitializer(new StartupProperties());
+		List<Thread> threads = new ArrayList<>();
+
+		initializer.run("inline task", () -> threads.add(Thread.currentThread()));
+
+		assertThat(threads).containsExactly(Thread.currentThread());
+		initializer.shutdown();
+	}
+
+	@Test
+	void runsOnDeferredThreadInSubmissionOrderWhenDeferralIsEnabled() throws InterruptedException {
+		StartupProperties properties = new StartupProperties();
+		properties.setDeferInitialization(true);
+		DeferredInitializer initializer = new DeferredInitializer(properties);
+		List<String> runs = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch done = new CountDownLatch(3);
+
+		for (int i = 1; i <= 3; i++) {
+			int task = i;
+			initializer.run("task " + task, () -> {
+				runs.add(Thread.currentThread().getName() + ":" + task);
+				done.countDown();
+			});
+		}
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(runs).containsExactly("deferred-init:1", "deferred-init:2", "deferred-init:3");
+		initializer.shutdown();
+	}
+
+}
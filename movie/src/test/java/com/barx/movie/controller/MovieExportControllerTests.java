@@ -0,0 +1,54 @@
+package com.barx.movie.controller;
+
+import com.barx.movie.config.ExportConfig;
+import com.barx.movie.dto.ExportFormat;
+import com.barx.movie.service.MovieExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MovieExportController.class)
+@Import(ExportConfig.class)
+class MovieExportControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private MovieExportService movieExportService;
+
+	@Test
+	void rejectsPartitionsAboveMaximum() throws Exception {
+		mockMvc.perform(post("/api/movies/export").param("partitions", "65"))
+				.andExpect(status().isBadRequest());
+
+		verifyNoInteractions(movieExportService);
+	}
+
+	@Test
+	void rejectsUnknownFormat() throws Exception {
+		mockMvc.perform(post("/api/movies/export").param("format", "parquet"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void reportsSaturatedExportPool() throws Exception {
+		when(movieExportService.startExport(eq(ExportFormat.NDJSON), any()))
+				.thenThrow(new TaskRejectedException("Export pool is saturated"));
+
+		mockMvc.perform(post("/api/movies/export").param("partitions", "2"))
+				.andExpect(status().isServiceUnavailable());
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.barx.movie.repository;
+
+import com.barx.movie.model.Movie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MovieRepositoryTests {
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void facetLookupsIgnoreCase() {
+		assertThat(movieRepository.findByGenre("dRaMa")).hasSize(4);
+		assertThat(movieRepository.findByActor("MORGAN FREEMAN"))
+				.extracting(Movie::getTitle).containsExactly("The Shawshank Redemption");
+		assertThat(movieRepository.findByDirector("quentin tarantino"))
+				.extracting(Movie::getTitle).containsExactly("Pulp Fiction");
+		assertThat(movieRepository.findByCountry("south korea"))
+				.extracting(Movie::getTitle).containsExactly("Parasite");
+	}
+
+	@Test
+	void rangeLookups() {
+		assertThat(movieRepository.findByMinImdbRating(9.0))
+				.extracting(Movie::getTitle)
+				.containsExactlyInAnyOrder("The Shawshank Redemption", "The Godfather");
+		assertThat(movieRepository.findByMaxRuntime(140))
+				.extracting(Movie::getTitle).containsExactly("Parasite");
+	}
+
+	@Test
+	void facetLookupsUseLowercaseKeyIndexes() {
+		assertThat(explain(MovieRepository.FIND_BY_GENRE_SQL, "drama"))
+				.containsIgnoringCase("idx_movie_genres_genre_key");
+		assertThat(explain(MovieRepository.FIND_BY_ACTOR_SQL, "morgan freeman"))
+				.containsIgnoringCase("idx_movie_cast_actor_key");
+		assertThat(explain(MovieRepository.FIND_BY_DIRECTOR_SQL, "quentin tarantino"))
+				.containsIgnoringCase("idx_movie_directors_director_key");
+		assertThat(explain(MovieRepository.FIND_BY_COUNTRY_SQL, "usa"))
+				.containsIgnoringCase("idx_movie_countries_country_key");
+	}
+
+	@Test
+	void rangeLookupsUseMovieIndexes() {
+		assertThat(explain(MovieRepository.FIND_BY_MIN_IMDB_RATING_SQL, 8.8))
+				.containsIgnoringCase("idx_movies_rating");
+		assertThat(explain(MovieRepository.FIND_BY_MAX_RUNTIME_SQL, 150))
+				.containsIgnoringCase("idx_movies_runtime");
+	}
+
+	private String explain(String sql, Object parameter) {
+		return jdbcTemplate.queryForObject("EXPLAIN " + sql.replaceAll(":\\w+", "?"), String.class, parameter);
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.barx.movie.service;
+
+import com.barx.movie.dto.ExportFormat;
+import com.barx.movie.dto.ExportJobDTO;
+import com.barx.movie.model.Movie;
+import com.barx.movie.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MovieExportServiceTests {
+
+	@TempDir
+	static Path exportDirectory;
+
+	@DynamicPropertySource
+	static void exportProperties(DynamicPropertyRegistry registry) {
+		registry.add("movie.export.directory", exportDirectory::toString);
+		registry.add("movie.export.batch-size", () -> 2);
+	}
+
+	@Autowired
+	private MovieExportService movieExportService;
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Test
+	void exportsEveryMovieAsNdjson() throws Exception {
+		ExportJobDTO job = awaitCompletion(movieExportService.startExport(ExportFormat.NDJSON, 3));
+
+		assertThat(job.getStatus()).isEqualTo(ExportJobDTO.Status.COMPLETED);
+		assertThat(job.getMovieCount()).isEqualTo(4);
+		List<String> lines = readLines(job);
+		assertThat(lines).hasSize(4);
+		assertThat(lines).anyMatch(line -> line.contains("\"directors\":[\"Frank Darabont\"]"));
+	}
+
+	@Test
+	void exportsEveryMovieAsCsvWithHeaderPerPartition() throws Exception {
+		ExportJobDTO job = awaitCompletion(movieExportService.startExport(ExportFormat.CSV, 2));
+
+		assertThat(job.getStatus()).isEqualTo(ExportJobDTO.Status.COMPLETED);
+		List<String> lines = readLines(job);
+		assertThat(lines).filteredOn(line -> line.startsWith("id,title,")).hasSize(job.getFiles().size());
+		assertThat(lines).hasSize(4 + job.getFiles().size());
+		assertThat(lines).anyMatch(line -> line.contains("Song Kang-ho|Lee Sun-kyun"));
+	}
+
+	@Test
+	void escapesListDelimitersInCsv() throws Exception {
+		Movie movie = movieRepository.save(Movie.builder()
+				.title("Escaping Test")
+				.genres(List.of("Documentary"))
+				.cast(List.of("Pipe | Actor", "Back\\slash"))
+				.build());
+		try {
+			ExportJobDTO job = awaitCompletion(movieExportService.startExport(ExportFormat.CSV, 1));
+
+			assertThat(job.getStatus()).isEqualTo(ExportJobDTO.Status.COMPLETED);
+			assertThat(readLines(job)).anyMatch(line -> line.contains(",Pipe \\| Actor|Back\\\\slash,"));
+		} finally {
+			movieRepository.delete(movie);
+		}
+	}
+
+	private ExportJobDTO awaitCompletion(ExportJobDTO job) throws InterruptedException {
+		for (int attempt = 0; attempt < 100 && job.getStatus() == ExportJobDTO.Status.RUNNING; attempt++) {
+			Thread.sleep(100);
+			job = movieExportService.getExportJob(job.getId()).orElseThrow();
+		}
+		return job;
+	}
+
+	private List<String> readLines(ExportJobDTO job) throws IOException {
+		List<String> lines = new ArrayList<>();
+		for (String file : job.getFiles()) {
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+					new GZIPInputStream(Files.newInputStream(Path.of(file))), StandardCharsets.UTF_8))) {
+				reader.lines().forEach(lines::add);
+			}
+		}
+		return lines;
+	}
+
+}
@@ -0,0 +1,136 @@
+import argparse
+import glob
+import os
+import statistics
+import subprocess
+import sys
+import threading
+import time
+import urllib.error
+import urllib.request
+
+# JVM flags per run mode. "aot" and "fast" need a jar built with -PfastStartup. "cds" and
+# "fast" use the archive `./gradlew trainCds` recorded for their AOT setting, so each mode
+# runs against classes loaded by the same startup path.
+MODES = {
+    "default": [],
+    "cds": ["-XX:SharedArchiveFile=application.jsa"],
+    "aot": ["-Dspring.aot.enabled=true"],
+    "fast": [
+        "-XX:SharedArchiveFile=application-aot.jsa",
+        "-Dspring.aot.enabled=true",
+        "-Dmovie.startup.defer-initialization=true",
+        "-Dmovie.startup.warm-up=true",
+    ],
+}
+
+ARCHIVE_FLAG = "-XX:SharedArchiveFile="
+
+# Logged by StartupConfig once ApplicationReadyEvent is published, i.e. after every CommandLineRunner
+READY_MARKER = "Application ready in"
+
+
+def find_jar(app_dir):
+    """Find the application jar extracted by `./gradlew extractBootJar`"""
+    jars = [jar for jar in glob.glob(os.path.join(app_dir, "*.jar")) if not jar.endswith("-plain.jar")]
+    if len(jars) != 1:
+        sys.exit(f"Expected exactly one application jar in {app_dir}, found {len(jars)}")
+    return os.path.basename(jars[0])
+
+
+def watch_for_ready(process, started, ready):
+    """Drain the application log, recording when the readiness line appears"""
+    for line in process.stdout:
+        if "seconds" not in ready and READY_MARKER in line:
+            ready["seconds"] = time.perf_counter() - started
+            ready["event"].set()
+    ready["event"].set()
+
+
+def measure_startup(java, app_dir, jar, flags, port, path, timeout):
+    """Start the application and return the seconds until `path` first answers with HTTP 200
+    and until the application is ready.
+
+    Tomcat accepts requests as soon as the context is refreshed, before command line runners
+    run, so deferring initialisation shortens the time to ready rather than the first request.
+    """
+    url = f"http://localhost:{port}{path}"
+    command = [java, *flags, f"-Dserver.port={port}", "-jar", jar]
+    started = time.perf_counter()
+    process = subprocess.Popen(command, cwd=app_dir, stdout=subprocess.PIPE, stderr=subprocess.STDOUT,
+                               text=True, errors="replace")
+    ready = {"event": threading.Event()}
+    watcher = threading.Thread(target=watch_for_ready, args=(process, started, ready), daemon=True)
+    watcher.start()
+    try:
+        first_request = None
+        while first_request is None:
+            if time.perf_counter() - started > timeout:
+                raise RuntimeError(f"No successful response from {url} within {timeout} seconds")
+            if process.poll() is not None:
+                raise RuntimeError(f"Application exited with code {process.returncode}: {' '.join(command)}")
+            try:
+                with urllib.request.urlopen(url, timeout=1) as response:
+                    if response.status == 200:
+                        first_request = time.perf_counter() - started
+            except (urllib.error.URLError, ConnectionError):
+                time.sleep(0.01)
+        ready["event"].wait(max(0.0, timeout - (time.perf_counter() - started)))
+        if "seconds" not in ready:
+            raise RuntimeError(f"Application did not log '{READY_MARKER}' within {timeout} seconds")
+        return first_request, ready["seconds"]
+    finally:
+        process.terminate()
+        try:
+            process.wait(timeout=30)
+        except subprocess.TimeoutExpired:
+            process.kill()
+            process.wait()
+        watcher.join(timeout=5)
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Measure time-to-first-request and time-to-ready of the movie "
+                                                 "service per startup mode")
+    parser.add_argument("--app-dir", default=os.path.join(os.path.dirname(__file__), "..", "movie", "build", "fast-startup"),
+                        help="Directory produced by `./gradlew trainCds` (default: movie/build/fast-startup)")
+    parser.add_argument("--java", default="java", help="Java 21 executable")
+    parser.add_argument("--modes", nargs="+", choices=MODES.keys(), default=list(MODES.keys()))
+    parser.add_argument("--runs", type=int, default=5, help="Measured runs per mode")
+    parser.add_argument("--port", type=int, default=18080)
+    parser.add_argument("--path", default="/api/movies", help="Endpoint polled for the first request")
+    parser.add_argument("--timeout", type=float, default=120.0, help="Seconds to wait for each start")
+    args = parser.parse_args()
+
+    app_dir = os.path.abspath(args.app_dir)
+    jar = find_jar(app_dir)
+    for mode in args.modes:
+        for flag in MODES[mode]:
+            if flag.startswith(ARCHIVE_FLAG):
+                archive = flag[len(ARCHIVE_FLAG):]
+                if not os.path.exists(os.path.join(app_dir, archive)):
+                    sys.exit(f"No {archive} in {app_dir} for mode {mode}, "
+                             f"run `./gradlew trainCds -PfastStartup` first")
+
+    print(f"Benchmarking {jar} in {app_dir} ({args.runs} runs per mode)")
+    results = {}
+    for mode in args.modes:
+        first_requests, readies = [], []
+        for run in range(1, args.runs + 1):
+            first_request, ready = measure_startup(args.java, app_dir, jar, MODES[mode], args.port, args.path,
+                                                   args.timeout)
+            first_requests.append(first_request)
+            readies.append(ready)
+            print(f"  {mode:<8} run {run}: first request {first_request:.3f}s, ready {ready:.3f}s")
+        results[mode] = (first_requests, readies)
+
+    print()
+    print(f"{'mode':<8} {'metric':<14} {'median':>8} {'min':>8} {'max':>8}")
+    for mode, (first_requests, readies) in results.items():
+        for metric, timings in (("first request", first_requests), ("ready", readies)):
+            print(f"{mode:<8} {metric:<14} {statistics.median(timings):>7.3f}s "
+                  f"{min(timings):>7.3f}s {max(timings):>7.3f}s")
+
+
+if __name__ == "__main__":
+    main()